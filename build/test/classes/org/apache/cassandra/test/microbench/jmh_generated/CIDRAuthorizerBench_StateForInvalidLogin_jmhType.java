@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class CIDRAuthorizerBench_StateForInvalidLogin_jmhType extends CIDRAuthorizerBench_StateForInvalidLogin_jmhType_B3 {
+}
+
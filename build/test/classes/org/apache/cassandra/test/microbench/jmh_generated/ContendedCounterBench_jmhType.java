@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class ContendedCounterBench_jmhType extends ContendedCounterBench_jmhType_B3 {
+}
+
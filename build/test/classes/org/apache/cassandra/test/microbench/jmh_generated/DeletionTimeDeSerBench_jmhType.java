@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class DeletionTimeDeSerBench_jmhType extends DeletionTimeDeSerBench_jmhType_B3 {
+}
+
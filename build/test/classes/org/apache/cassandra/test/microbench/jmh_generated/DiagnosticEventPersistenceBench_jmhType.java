@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class DiagnosticEventPersistenceBench_jmhType extends DiagnosticEventPersistenceBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class FullScanBench_jmhType extends FullScanBench_jmhType_B3 {
+}
+
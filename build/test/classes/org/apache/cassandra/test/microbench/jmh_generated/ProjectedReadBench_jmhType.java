@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class ProjectedReadBench_jmhType extends ProjectedReadBench_jmhType_B3 {
+}
+
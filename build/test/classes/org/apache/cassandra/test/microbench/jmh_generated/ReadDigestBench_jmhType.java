@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class ReadDigestBench_jmhType extends ReadDigestBench_jmhType_B3 {
+}
+
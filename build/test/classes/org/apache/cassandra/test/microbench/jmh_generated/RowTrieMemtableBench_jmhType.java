@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class RowTrieMemtableBench_jmhType extends RowTrieMemtableBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class SingleRowStatementBench_jmhType extends SingleRowStatementBench_jmhType_B3 {
+}
+
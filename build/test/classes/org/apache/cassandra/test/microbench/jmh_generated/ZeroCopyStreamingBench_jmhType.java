@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class ZeroCopyStreamingBench_jmhType extends ZeroCopyStreamingBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class ZstdDictionaryBench_jmhType extends ZstdDictionaryBench_jmhType_B3 {
+}
+